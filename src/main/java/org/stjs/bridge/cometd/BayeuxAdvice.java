@@ -60,6 +60,26 @@ public class BayeuxAdvice extends Map<String, Object> {
 	 */
 	public long interval;
 
+	/**
+	 * An integer representing the period of time, in milliseconds, for the server to delay responses to the /meta/connect channel.
+	 * <p/>
+	 * This value is merely informative for clients. Bayeux servers SHOULD honor timeout advices sent by clients, so a client may send a
+	 * <tt>timeout</tt> advice in a /meta/connect message to ask the server to hold the long poll for a shorter time.
+	 * <p/>
+	 * Note that the JavaScript client aborts a /meta/connect request that has not been answered after <tt>maxNetworkDelay</tt> plus the
+	 * <tt>timeout</tt> of the advice it currently holds (see {@link CometDConfig#advice}). Asking the server for a longer timeout than that
+	 * makes the client time out its own long poll and back off, so a longer timeout must only be requested when the client-side advice has
+	 * been raised accordingly.
+	 */
+	public long timeout;
+
+	/**
+	 * An integer representing the maximum period of time, in milliseconds, that the server waits for the client to send a new /meta/connect
+	 * message after a /meta/connect response has been sent, before considering the client gone. A client that waits longer than
+	 * <tt>interval</tt> before reconnecting (for example while its page is not visible) must stay within this period.
+	 */
+	public long maxInterval;
+
 	/**
 	 * If present indicates a list of host names or IP addresses that MAY be used as alternate servers
 	 * with which the client may connect. If a client receives advice to re-handshake and the current server is not included in a supplied hosts
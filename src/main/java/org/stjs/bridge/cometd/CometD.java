@@ -249,6 +249,35 @@ import org.stjs.javascript.functions.Callback4;
 @STJSBridge(sources = "webjar:/cometd.js")
 public class CometD {
 
+	/**
+	 * Creates a new CometD object named 'default'.
+	 *
+	 * @see #CometD(String)
+	 */
+	public CometD() {
+		// nothing to do
+	}
+
+	/**
+	 * Creates a new CometD object with the given name. Each CometD object has its own configuration, transports, extensions, subscriptions
+	 * and listeners, so several instances can be created in the same page, for example to connect to different Bayeux servers at the same
+	 * time.
+	 * <p/>
+	 * This constructor only creates the core <tt>org.cometd.CometD</tt> object: it does not register any transport, and it relies on a toolkit
+	 * binding (jQuery or Dojo) being loaded to provide the JSON and XMLHttpRequest functions used by the transports. An instance created this
+	 * way cannot handshake until transports have been registered with {@link #registerTransport(String, CometDTransport, int)}. When using a
+	 * toolkit binding, prefer the instances created by the binding itself (for example <tt>$.CometD(name)</tt> with jQuery), which register
+	 * the default transports.
+	 * <p/>
+	 * Remember that browsers limit the number of connections to the same host, so each instance should be configured with an appropriate
+	 * <tt>maxConnections</tt> value when they target the same server.
+	 *
+	 * @param name the name of this CometD object, as returned by {@link #getName()}
+	 */
+	public CometD(String name) {
+		// nothing to do
+	}
+
 	/**
 	 * Unregisters the transport with the specified name. This can be useful to force the use of
 	 * only one transport (for example, for testing purposes), or to disable certain transports that might be
@@ -629,6 +658,25 @@ public class CometD {
 	 */
 	public native void publish(String channel, Object messagePayload, Callback1<BayeuxMessage> onPublishReply);
 
+	/**
+	 * Publishes the specified message to the specified channel, merging the given additional fields into the published Bayeux message.
+	 * <p/>
+	 * This is useful with service channels, to add to the message the fields that the server needs to correlate its reply with the request:
+	 * <pre>
+	 * Map<String, Object> additional = $map();
+	 * additional.$put("ext", $map("com.acme.correlation", requestId));
+	 * cometd.publish("/service/quote", new QuoteRequest("FOO"), additional, publishReply -> ...);
+	 * </pre>
+	 * <p/>
+	 * Several requests published within {@link #batch(Callback0)} are sent to the server in a single request.
+	 *
+	 * @param channel        the name of the channel to which the message must be published
+	 * @param messagePayload the payload object that will be sent in the <tt>data.content</tt> field of the published Bayeux message
+	 * @param additional     an object containing additional informations/fields that will be merged into the published message
+	 * @param onPublishReply a callback function that is called when the reply to the publish request is received
+	 */
+	public native void publish(String channel, Object messagePayload, Object additional, Callback1<BayeuxMessage> onPublishReply);
+
 	/**
 	 * Equivalent to calling <tt>disconnect(null, null)</tt>
 	 */
@@ -839,7 +887,12 @@ public class CometD {
 	public native void receive(BayeuxMessage message);
 
 	/**
-	 * Returns a string representing the status of the bayeux communication with the Bayeux server.
+	 * Returns a string representing the status of the bayeux communication with the Bayeux server. The possible values are
+	 * <tt>"disconnected"</tt>, <tt>"handshaking"</tt>, <tt>"connecting"</tt>, <tt>"connected"</tt> and <tt>"disconnecting"</tt>.
+	 * <p/>
+	 * There is no notification of status changes, and the transitions do not coincide with the notification of the meta channel listeners:
+	 * for example the status becomes <tt>"connected"</tt> when the /meta/connect request is sent, and <tt>"connecting"</tt> only after the
+	 * /meta/handshake listeners have run, so a /meta/handshake listener still sees <tt>"handshaking"</tt>.
 	 */
 	public native String getStatus();
 
@@ -87,4 +87,11 @@ public class CometDConfig {
 	 */
 	public boolean stickyReconnect;
 
+	/**
+	 * The advice the client uses until the server sends its own (see {@link BayeuxAdvice}). Its <tt>timeout</tt> is also the value the
+	 * client uses to compute how long to wait for a /meta/connect response before considering it failed.
+	 * The default value is {timeout: 60000, interval: 0, reconnect: "retry", maxInterval: 0}
+	 */
+	public BayeuxAdvice advice;
+
 }
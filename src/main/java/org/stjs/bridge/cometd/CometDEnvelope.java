@@ -0,0 +1,57 @@
+package org.stjs.bridge.cometd;
+
+import org.stjs.javascript.Array;
+import org.stjs.javascript.annotation.SyntheticType;
+import org.stjs.javascript.functions.Callback1;
+import org.stjs.javascript.functions.Callback3;
+
+/**
+ * The envelope the CometD object passes to {@link CometDTransport#send(CometDEnvelope, boolean)}. It wraps the Bayeux messages to send
+ * together with the callbacks the transport must invoke once the exchange with the server completes.
+ * <p/>
+ * In its <tt>send()</tt> method a transport delivers the messages and eventually calls exactly one of the two callbacks:
+ * <pre>
+ * public void send(CometDEnvelope envelope, boolean metaConnect) {
+ *     Array<BayeuxMessage> replies = server.process(envelope.messages);
+ *     envelope.onSuccess.$invoke(replies);
+ * }
+ * </pre>
+ * <p/>
+ * <tt>send()</tt> is not the only method a custom transport (for example one that does not use the network at all) must provide: the
+ * CometD object also calls {@link CometDTransport#accept(String, boolean, String)}, {@link CometDTransport#getType()},
+ * {@link CometDTransport#registered(String, CometD)}, {@link CometDTransport#reset()} and {@link CometDTransport#abort()} on every
+ * registered transport. Moreover, a transport that answers a /meta/connect immediately makes the client send the next /meta/connect right
+ * away when the advised interval is 0; like a server, it must hold the /meta/connect reply until there are messages to deliver or the
+ * advised timeout expires.
+ */
+@SyntheticType
+public class CometDEnvelope {
+
+	/**
+	 * The URL of the Bayeux server the messages are sent to.
+	 */
+	public String url;
+
+	/**
+	 * Whether the messages must be sent synchronously, as it happens when disconnecting while the page is unloading.
+	 */
+	public boolean sync;
+
+	/**
+	 * The Bayeux messages to send.
+	 */
+	public Array<BayeuxMessage> messages;
+
+	/**
+	 * The callback to invoke with the messages received from the server in reply.
+	 */
+	public Callback1<Array<BayeuxMessage>> onSuccess;
+
+	/**
+	 * The callback to invoke if the messages could not be delivered. The parameters are the transport specific conduit (for example the
+	 * XMLHttpRequest), the messages that failed and an object describing the failure (with fields such as <tt>reason</tt> and
+	 * <tt>exception</tt>).
+	 */
+	public Callback3<Object, Array<BayeuxMessage>, Object> onFailure;
+
+}
@@ -29,17 +29,38 @@ public class CometDExtension {
 
 	/**
 	 * Called just before a message is sent
+	 * <p/>
+	 * Returning null drops the message silently: it is never sent. Never drop meta messages: for example a dropped /meta/connect request
+	 * means that no further long poll is issued and the client stops receiving messages, while its status still says "connected".
 	 *
 	 * @param message the message about to be sent
+	 * @return the message, or null to drop it
 	 */
-	public native void outgoing(BayeuxMessage message);
+	public native BayeuxMessage outgoing(BayeuxMessage message);
 
 	/**
-	 * Called just after a message is received
+	 * Called just after a message is received. Returning null discards the message before any processing, including the notification of
+	 * listeners and subscribers.
+	 * <p/>
+	 * Only data messages may be dropped, never messages on <tt>/meta/*</tt> channels nor publish replies (the messages that carry a
+	 * <tt>successful</tt> field): the CometD object would skip the protocol handling of these replies, so that for example a dropped
+	 * /meta/connect reply stops the long poll, and the callbacks of dropped handshake or publish replies are never called. For example, to
+	 * drop data messages that are older than a given time to live:
+	 * <pre>
+	 * public BayeuxMessage incoming(BayeuxMessage message) {
+	 *     if (message.channel.indexOf("/meta/") == 0 || message.successful != null || message.timestamp == null) {
+	 *         return message;
+	 *     }
+	 *     double age = timesync.getServerTime() - new Date(message.timestamp).getTime();
+	 *     return age > timeToLive ? null : message;
+	 * }
+	 * </pre>
+	 * where <tt>timesync</tt> is the registered {@link TimeSyncExtension}.
 	 *
 	 * @param message the message that was just received
+	 * @return the message, or null to drop it
 	 */
-	public native void incoming(BayeuxMessage message);
+	public native BayeuxMessage incoming(BayeuxMessage message);
 
 	/**
 	 * Called when the extension is registered
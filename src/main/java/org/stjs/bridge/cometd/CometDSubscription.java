@@ -2,6 +2,24 @@ package org.stjs.bridge.cometd;
 
 import org.stjs.javascript.annotation.SyntheticType;
 
+/**
+ * The handle returned by {@link CometD#subscribe(String, org.stjs.javascript.functions.Callback1)} and
+ * {@link CometD#addListener(String, org.stjs.javascript.functions.Callback1)}. Its fields are read-only.
+ * <p/>
+ * The handle is not modified by <tt>unsubscribe()</tt> or <tt>removeListener()</tt>, so its fields do not tell whether the registration is
+ * still live: applications that need to know must track removals themselves.
+ */
 @SyntheticType
-public interface CometDSubscription {
+public class CometDSubscription {
+
+	/**
+	 * The channel this subscription or listener was registered to.
+	 */
+	public String channel;
+
+	/**
+	 * True if this handle was returned by <tt>addListener()</tt>, false if it was returned by <tt>subscribe()</tt>.
+	 */
+	public boolean listener;
+
 }
@@ -26,8 +26,24 @@ public class CometDTransport {
 
 	public native BayeuxAdvice getAdvice();
 
+	/**
+	 * Schedules the given function to be called after the given delay, using the timer of the window the cometd object lives in. Exceptions
+	 * thrown by the function are logged instead of being propagated.
+	 * <p/>
+	 * Each call creates a new browser timer, so transports and extensions that track many pending requests may prefer to schedule a single
+	 * timer and check their own deadlines when it expires.
+	 *
+	 * @param funktion the function to call
+	 * @param delay    the delay in milliseconds
+	 * @return the handle to pass to {@link #clearTimeout(TimeoutHandler)} to cancel the timer
+	 */
 	public native TimeoutHandler setTimeout(Callback0 funktion, long delay);
 
+	/**
+	 * Cancels a timer previously scheduled with {@link #setTimeout(Callback0, long)}.
+	 *
+	 * @param handle the handle of the timer to cancel
+	 */
 	public native void clearTimeout(TimeoutHandler handle);
 
 	/**
@@ -61,10 +77,10 @@ public class CometDTransport {
 
 	/**
 	 * Send the specified message to the Bayeux server
-	 * @param envelope The transport specific message format that wraps a standard Bayeux message.
+	 * @param envelope The envelope that wraps the standard Bayeux messages to send, see {@link CometDEnvelope}.
 	 * @param metaConnect true if the message in the envelope is for the /meta/connect channel.
 	 */
-	public native void send(Object envelope, boolean metaConnect);
+	public native void send(CometDEnvelope envelope, boolean metaConnect);
 
 	public native void reset();
 
@@ -69,12 +69,18 @@ public class TimeSyncExtension extends CometDExtension {
 	/**
 	 * Get the estimated offset in ms from the clients clock to the
 	 * servers clock.  The server time is the client time plus the offset.
+	 * <p/>
+	 * The offset is the plain average of the last <tt>maxSamples</tt> offsets returned by {@link #getTimeOffsetSamples()}, so a single sample
+	 * taken during a slow round trip weighs as much as any other.
 	 */
 	public native long getTimeOffset();
 
 	/**
 	 * Get an array of multiple offset samples used to calculate
-	 * the offset.
+	 * the offset. The oldest sample comes first.
+	 * <p/>
+	 * Applications that need a more robust estimate than the average returned by {@link #getTimeOffset()} (for example the median, or an
+	 * estimate that discards outliers) can compute it from these samples.
 	 */
 	public native Array<Long> getTimeOffsetSamples();
 